@@ -3,6 +3,7 @@ module org.agenda_poo2 {
     requires javafx.fxml;
     requires static lombok;
     requires jakarta.persistence;
+    requires java.sql;
     requires jdk.compiler;
     requires org.hibernate.orm.core;
 
@@ -1,9 +1,13 @@
 package org.agenda_poo2;
 
+import javafx.animation.PauseTransition;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
+import javafx.util.Duration;
+import org.model.FilaAtualizacoes;
 
 import java.io.IOException;
 import java.util.logging.Level;
@@ -20,6 +24,14 @@ public class AgendaApp extends Application {
 
     private static final Logger LOGGER = Logger.getLogger(AgendaApp.class.getName());
 
+    /**
+     * Quando definida ({@code -Dagenda.treino=true}), a aplicação fecha sozinha logo após
+     * iniciar, mesmo que um diálogo de erro esteja aberto. Usada pelo perfil Maven
+     * {@code imagem} para gerar o arquivo AppCDS.
+     */
+    private static final boolean MODO_TREINO = Boolean.getBoolean("agenda.treino");
+    private static final Duration DURACAO_TREINO = Duration.seconds(2);
+
     /**
      * Inicia a aplicação JavaFX.
      *
@@ -29,6 +41,12 @@ public class AgendaApp extends Application {
     @Override
     public void start(Stage stage) throws IOException {
         try {
+            // Inicia antes de carregar a interface: um diálogo de erro modal durante o
+            // carregamento (ex.: banco indisponível) não pode travar a execução de treino
+            if (MODO_TREINO) {
+                encerrarTreino();
+            }
+
             FXMLLoader fxmlLoader = new FXMLLoader(AgendaApp.class.getResource("contatos-view.fxml"));
 
             if (fxmlLoader.getLocation() == null) {
@@ -42,6 +60,7 @@ public class AgendaApp extends Application {
             stage.setResizable(true);
             stage.setOnCloseRequest(event -> {
                 LOGGER.info("Aplicação encerrada pelo usuário");
+                FilaAtualizacoes.getInstancia().encerrar();
                 System.exit(0);
             });
             stage.show();
@@ -55,6 +74,18 @@ public class AgendaApp extends Application {
         }
     }
 
+    /**
+     * Encerra a execução de treino após {@link #DURACAO_TREINO}, tempo suficiente para
+     * carregar a interface e desenhar as primeiras telas, para que as classes de
+     * renderização também entrem no arquivo AppCDS.
+     */
+    private void encerrarTreino() {
+        LOGGER.info("Modo de treino: encerrando em " + DURACAO_TREINO.toSeconds() + "s");
+        PauseTransition pausa = new PauseTransition(DURACAO_TREINO);
+        pausa.setOnFinished(event -> Platform.exit());
+        pausa.play();
+    }
+
     /**
      * Método principal que inicia a aplicação.
      *
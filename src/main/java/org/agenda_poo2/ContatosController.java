@@ -1,5 +1,6 @@
 package org.agenda_poo2;
 
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -7,6 +8,9 @@ import javafx.fxml.Initializable;
 import javafx.scene.control.*;
 import org.model.Contato;
 import org.model.ContatoDAO;
+import org.model.ErroValidacao;
+import org.model.FilaAtualizacoes;
+import org.model.ValidadorContato;
 
 import java.net.URL;
 import java.util.List;
@@ -75,6 +79,14 @@ public class ContatosController implements Initializable {
             // Listener para selecionar contato na tabela
             tabelaContatos.setOnMouseClicked(event -> selecionarContato());
 
+            // Edições são gravadas em segundo plano; avisa quando uma não pôde ser gravada
+            FilaAtualizacoes.getInstancia().setOuvinteFalhas((contato, erro) -> Platform.runLater(() -> {
+                mostrarErro("Erro ao atualizar",
+                    "Não foi possível gravar as alterações do contato " + contato.getNome()
+                        + ". Verifique a conexão com o banco de dados.");
+                carregarContatos();
+            }));
+
             // Carregar contatos ao iniciar
             carregarContatos();
             LOGGER.info("Controller inicializado com sucesso");
@@ -95,9 +107,9 @@ public class ContatosController implements Initializable {
             }
 
             Contato novoContato = new Contato();
-            novoContato.setNome(tfNome.getText().trim());
-            novoContato.setTelefone(tfTelefone.getText().trim());
-            novoContato.setEmail(tfEmail.getText().trim());
+            novoContato.setNome(ValidadorContato.normalizar(tfNome.getText()));
+            novoContato.setTelefone(ValidadorContato.normalizar(tfTelefone.getText()));
+            novoContato.setEmail(ValidadorContato.normalizar(tfEmail.getText()));
 
             ContatoDAO.salvarContato(novoContato);
             mostrarSucesso("Contato adicionado com sucesso!");
@@ -133,15 +145,16 @@ public class ContatosController implements Initializable {
             }
 
             String nomeAntigo = contatoSelecionado.getNome();
-            contatoSelecionado.setNome(tfNome.getText().trim());
-            contatoSelecionado.setTelefone(tfTelefone.getText().trim());
-            contatoSelecionado.setEmail(tfEmail.getText().trim());
-
-            ContatoDAO.atualizarContato(contatoSelecionado);
-            mostrarSucesso("Contato atualizado com sucesso!");
-            LOGGER.info("Contato atualizado: " + nomeAntigo + " -> " + contatoSelecionado.getNome());
+            contatoSelecionado.setNome(ValidadorContato.normalizar(tfNome.getText()));
+            contatoSelecionado.setTelefone(ValidadorContato.normalizar(tfTelefone.getText()));
+            contatoSelecionado.setEmail(ValidadorContato.normalizar(tfEmail.getText()));
+
+            // A gravação é adiada e agrupada; a tabela já exibe o próprio objeto editado
+            FilaAtualizacoes.getInstancia().agendar(contatoSelecionado);
+            mostrarSucesso("Atualização do contato agendada! Ela será gravada em instantes.");
+            LOGGER.info("Atualização agendada: " + nomeAntigo + " -> " + contatoSelecionado.getNome());
             limparCampos();
-            carregarContatos();
+            tabelaContatos.refresh();
         } catch (IllegalArgumentException e) {
             LOGGER.log(Level.WARNING, "Validação inválida", e);
             mostrarErro("Erro de validação", e.getMessage());
@@ -175,6 +188,8 @@ public class ContatosController implements Initializable {
             alert.setContentText("Nome: " + nomeContato);
 
             if (alert.showAndWait().filter(response -> response == ButtonType.OK).isPresent()) {
+                // Descarta edições pendentes do contato: gravadas após a exclusão, elas o recriariam
+                FilaAtualizacoes.getInstancia().cancelar(idContato);
                 ContatoDAO.excluirContato(idContato);
                 mostrarSucesso("Contato excluído com sucesso!");
                 LOGGER.info("Contato excluído: ID " + idContato + " - " + nomeContato);
@@ -226,6 +241,7 @@ public class ContatosController implements Initializable {
      */
     private void carregarContatos() {
         try {
+            FilaAtualizacoes.getInstancia().descarregar();
             List<Contato> contatos = ContatoDAO.listarContatos();
             ObservableList<Contato> observableContatos = FXCollections.observableArrayList(contatos);
             tabelaContatos.setItems(observableContatos);
@@ -256,66 +272,23 @@ public class ContatosController implements Initializable {
     }
 
     /**
-     * Valida se os campos obrigatórios estão preenchidos.
+     * Valida se os campos obrigatórios estão preenchidos e bem formatados.
      *
      * @return true se os campos são válidos, false caso contrário
      */
     private boolean validarCampos() {
-        String nome = tfNome.getText().trim();
-        String telefone = tfTelefone.getText().trim();
-        String email = tfEmail.getText().trim();
-
-        if (nome.isEmpty()) {
-            mostrarAviso("Por favor, preencha o campo Nome!");
-            tfNome.requestFocus();
-            return false;
-        }
-
-        if (telefone.isEmpty()) {
-            mostrarAviso("Por favor, preencha o campo Telefone!");
-            tfTelefone.requestFocus();
-            return false;
+        ErroValidacao erro = ValidadorContato.validar(tfNome.getText(), tfTelefone.getText(), tfEmail.getText());
+        if (erro.isValido()) {
+            return true;
         }
 
-        if (email.isEmpty()) {
-            mostrarAviso("Por favor, preencha o campo Email!");
-            tfEmail.requestFocus();
-            return false;
+        mostrarAviso(erro.getMensagem());
+        switch (erro.getCampo()) {
+            case NOME -> tfNome.requestFocus();
+            case TELEFONE -> tfTelefone.requestFocus();
+            case EMAIL -> tfEmail.requestFocus();
         }
-
-        if (!validarEmail(email)) {
-            mostrarAviso("Email inválido! Use o formato: exemplo@dominio.com");
-            tfEmail.requestFocus();
-            return false;
-        }
-
-        if (!validarTelefone(telefone)) {
-            mostrarAviso("Telefone inválido! Use um formato válido com números e caracteres como ( ) -");
-            tfTelefone.requestFocus();
-            return false;
-        }
-
-        return true;
-    }
-
-    /**
-     * Valida o formato do email.
-     *
-     * @param email o email a validar
-     * @return true se o email é válido, false caso contrário
-     */
-    private boolean validarEmail(String email) {
-        return email.matches("^[A-Za-z0-9+_.-]+@(.+)$");
-    }
-
-    /**
-     * Valida o formato do telefone.
-     *
-     * @param telefone o telefone a validar
-     * @return true se o telefone é válido, false caso contrário
-     */
-    private boolean validarTelefone(String telefone) {
-        return telefone.matches("^[()\\d\\s\\-+]*$") && telefone.length() >= 8;
+        return false;
     }
 
     /**
@@ -13,12 +13,16 @@ public class ContatoDAO {
      * Salva um novo contato no banco de dados.
      *
      * @param contato o contato a ser salvo
-     * @throws IllegalArgumentException se o contato for nulo
+     * @throws IllegalArgumentException se o contato for nulo ou inválido
      */
     public static void salvarContato(Contato contato) {
         if (contato == null) {
             throw new IllegalArgumentException("Contato não pode ser nulo");
         }
+        ErroValidacao erro = ValidadorContato.validar(contato);
+        if (!erro.isValido()) {
+            throw new IllegalArgumentException(erro.getMensagem());
+        }
 
         EntityManagerFactory emf = null;
         EntityManager em = null;
@@ -85,12 +89,16 @@ public class ContatoDAO {
      * Atualiza um contato existente no banco de dados.
      *
      * @param contato o contato com dados atualizados
-     * @throws IllegalArgumentException se o contato for nulo ou não tiver ID
+     * @throws IllegalArgumentException se o contato for nulo, inválido ou não tiver ID
      */
     public static void atualizarContato(Contato contato) {
         if (contato == null) {
             throw new IllegalArgumentException("Contato não pode ser nulo");
         }
+        ErroValidacao erro = ValidadorContato.validar(contato);
+        if (!erro.isValido()) {
+            throw new IllegalArgumentException(erro.getMensagem());
+        }
         if (contato.getId() <= 0) {
             throw new IllegalArgumentException("Contato deve ter um ID válido para atualização");
         }
@@ -124,6 +132,64 @@ public class ContatoDAO {
         }
     }
 
+    /**
+     * Atualiza vários contatos existentes em uma única transação.
+     * Se qualquer atualização falhar, nenhuma é aplicada.
+     *
+     * @param contatos os contatos com dados atualizados
+     * @throws IllegalArgumentException se a lista for nula ou algum contato for nulo, inválido ou não tiver ID
+     */
+    public static void atualizarContatos(List<Contato> contatos) {
+        if (contatos == null) {
+            throw new IllegalArgumentException("Lista de contatos não pode ser nula");
+        }
+        for (Contato contato : contatos) {
+            if (contato == null) {
+                throw new IllegalArgumentException("Contato não pode ser nulo");
+            }
+            if (contato.getId() <= 0) {
+                throw new IllegalArgumentException("Contato deve ter um ID válido para atualização");
+            }
+            ErroValidacao erro = ValidadorContato.validar(contato);
+            if (!erro.isValido()) {
+                throw new IllegalArgumentException(erro.getMensagem());
+            }
+        }
+        if (contatos.isEmpty()) {
+            return;
+        }
+
+        EntityManagerFactory emf = null;
+        EntityManager em = null;
+
+        try {
+            emf = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT);
+            em = emf.createEntityManager();
+            em.getTransaction().begin();
+            for (Contato contato : contatos) {
+                em.merge(contato);
+            }
+            em.getTransaction().commit();
+            LOGGER.info("Contatos atualizados em uma transação: " + contatos.size());
+        } catch (PersistenceException e) {
+            if (em != null && em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            LOGGER.log(Level.SEVERE, "Erro ao atualizar lote de " + contatos.size() + " contatos", e);
+            throw new RuntimeException("Erro ao atualizar contatos no banco de dados", e);
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Erro inesperado ao atualizar contatos", e);
+            throw new RuntimeException("Erro inesperado ao atualizar contatos", e);
+        } finally {
+            if (em != null && em.isOpen()) {
+                em.close();
+            }
+            if (emf != null && emf.isOpen()) {
+                emf.close();
+            }
+        }
+    }
+
     /**
      * Exclui um contato do banco de dados pelo seu ID.
      *
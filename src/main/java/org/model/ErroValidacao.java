@@ -0,0 +1,54 @@
+package org.model;
+
+/**
+ * Códigos de erro retornados pelo {@link ValidadorContato}.
+ * Cada código indica o campo afetado e a mensagem a exibir ao usuário.
+ *
+ * @author Adrian
+ * @version 1.0
+ */
+public enum ErroValidacao {
+
+    NENHUM(null, null),
+    NOME_VAZIO(Campo.NOME, "Por favor, preencha o campo Nome!"),
+    TELEFONE_VAZIO(Campo.TELEFONE, "Por favor, preencha o campo Telefone!"),
+    EMAIL_VAZIO(Campo.EMAIL, "Por favor, preencha o campo Email!"),
+    EMAIL_INVALIDO(Campo.EMAIL, "Email inválido! Use o formato: exemplo@dominio.com"),
+    TELEFONE_INVALIDO(Campo.TELEFONE, "Telefone inválido! Use um formato válido com números e caracteres como ( ) -");
+
+    /**
+     * Campos do contato sujeitos à validação.
+     */
+    public enum Campo {
+        NOME, TELEFONE, EMAIL
+    }
+
+    private final Campo campo;
+    private final String mensagem;
+
+    ErroValidacao(Campo campo, String mensagem) {
+        this.campo = campo;
+        this.mensagem = mensagem;
+    }
+
+    /**
+     * @return o campo que originou o erro, ou null para {@link #NENHUM}
+     */
+    public Campo getCampo() {
+        return campo;
+    }
+
+    /**
+     * @return a mensagem a exibir ao usuário, ou null para {@link #NENHUM}
+     */
+    public String getMensagem() {
+        return mensagem;
+    }
+
+    /**
+     * @return true se não houve erro de validação
+     */
+    public boolean isValido() {
+        return this == NENHUM;
+    }
+}
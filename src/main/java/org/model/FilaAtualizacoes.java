@@ -0,0 +1,405 @@
+package org.model;
+
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Fila de gravação adiada para atualizações de contatos.
+ * <p>
+ * Edições sucessivas do mesmo contato dentro de uma janela curta são agrupadas:
+ * apenas o estado mais recente de cada ID é gravado, e todos os contatos pendentes
+ * são atualizados em uma única transação via {@link ContatoDAO#atualizarContatos(List)}.
+ * As descargas são executadas uma de cada vez, então a ordem das atualizações de um
+ * mesmo ID é sempre preservada.
+ * <p>
+ * Se o lote falhar, cada contato é gravado separadamente, para que um contato com
+ * problema (ex.: excluído por outro cliente) não impeça a gravação dos demais. Se a
+ * falha não for de um contato específico (erro de conexão, ou falha já na primeira
+ * gravação individual), as tentativas individuais são interrompidas e os contatos
+ * voltam para a fila. Os que falharem são tentados de novo com espera crescente; após
+ * {@link #MAX_TENTATIVAS} falhas o contato é descartado e o ouvinte de falhas é avisado.
+ * <p>
+ * {@link #encerrar()} deve ser chamado ao fechar a aplicação para gravar o que estiver pendente.
+ *
+ * @author Adrian
+ * @version 1.0
+ */
+public final class FilaAtualizacoes {
+
+    /**
+     * Grava um lote de contatos em uma única transação.
+     */
+    @FunctionalInterface
+    interface Gravador {
+        void gravar(List<Contato> contatos);
+    }
+
+    private static final Logger LOGGER = Logger.getLogger(FilaAtualizacoes.class.getName());
+
+    /** Tempo de espera, a partir da primeira atualização pendente, antes de gravar o lote. */
+    private static final long JANELA_MS = 200;
+
+    /** Tempo máximo que {@link #encerrar()} espera pela gravação das atualizações pendentes. */
+    private static final long PRAZO_ENCERRAMENTO_MS = 5000;
+
+    /** Número de tentativas de gravação de um contato antes de descartá-lo. */
+    static final int MAX_TENTATIVAS = 3;
+
+    private static final FilaAtualizacoes INSTANCIA =
+            new FilaAtualizacoes(ContatoDAO::atualizarContatos, JANELA_MS, PRAZO_ENCERRAMENTO_MS);
+
+    /** Contato aguardando gravação e quantas vezes sua gravação já falhou. */
+    private record Pendente(Contato contato, int falhas) {
+    }
+
+    private final Gravador gravador;
+    private final long janelaMs;
+    private final long prazoEncerramentoMs;
+    private final Object lockPendentes = new Object();
+    private final Object lockDescarga = new Object();
+    private final Map<Integer, Pendente> pendentes = new LinkedHashMap<>();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+        Thread thread = new Thread(tarefa, "fila-atualizacoes");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private boolean descargaAgendada;
+    /** Instante ({@link System#nanoTime()}) da descarga agendada. */
+    private long descargaEmNanos;
+    /** Instante antes do qual nenhuma descarga agendada deve ocorrer, após uma falha. */
+    private long proximaTentativaNanos = System.nanoTime();
+    private boolean encerrada;
+    private volatile BiConsumer<Contato, RuntimeException> ouvinteFalhas = (contato, erro) -> { };
+
+    FilaAtualizacoes(Gravador gravador, long janelaMs) {
+        this(gravador, janelaMs, PRAZO_ENCERRAMENTO_MS);
+    }
+
+    FilaAtualizacoes(Gravador gravador, long janelaMs, long prazoEncerramentoMs) {
+        this.gravador = gravador;
+        this.janelaMs = janelaMs;
+        this.prazoEncerramentoMs = prazoEncerramentoMs;
+    }
+
+    /**
+     * @return a fila usada pela aplicação, que grava pelo {@link ContatoDAO}
+     */
+    public static FilaAtualizacoes getInstancia() {
+        return INSTANCIA;
+    }
+
+    /**
+     * Define quem é avisado quando a atualização de um contato é descartada após
+     * {@link #MAX_TENTATIVAS} falhas. O ouvinte é chamado na thread que fez a gravação.
+     *
+     * @param ouvinte recebe o contato descartado e o último erro
+     */
+    public void setOuvinteFalhas(BiConsumer<Contato, RuntimeException> ouvinte) {
+        this.ouvinteFalhas = ouvinte == null ? (contato, erro) -> { } : ouvinte;
+    }
+
+    /**
+     * Agenda a atualização de um contato. Uma cópia do estado atual é guardada,
+     * substituindo qualquer atualização ainda pendente para o mesmo ID.
+     * Após {@link #encerrar()}, a atualização é gravada imediatamente, antes de retornar.
+     *
+     * @param contato o contato com dados atualizados
+     * @throws IllegalArgumentException se o contato for nulo, inválido ou não tiver ID
+     */
+    public void agendar(Contato contato) {
+        if (contato == null) {
+            throw new IllegalArgumentException("Contato não pode ser nulo");
+        }
+        if (contato.getId() <= 0) {
+            throw new IllegalArgumentException("Contato deve ter um ID válido para atualização");
+        }
+        ErroValidacao erro = ValidadorContato.validar(contato);
+        if (!erro.isValido()) {
+            throw new IllegalArgumentException(erro.getMensagem());
+        }
+
+        Contato copia = new Contato(contato.getId(), contato.getNome(), contato.getEmail(), contato.getTelefone());
+        boolean gravarAgora;
+        synchronized (lockPendentes) {
+            pendentes.put(copia.getId(), new Pendente(copia, 0));
+            gravarAgora = encerrada;
+            agendarDescarga(janelaMs);
+        }
+        // Após o encerramento, a gravação passa pela mesma descarga serializada,
+        // para não ultrapassar uma versão anterior do mesmo contato ainda sendo gravada
+        if (gravarAgora) {
+            descarregarTudo();
+        }
+    }
+
+    /**
+     * Descarta a atualização pendente de um contato, por exemplo antes de excluí-lo.
+     * Se uma gravação estiver em andamento, espera por ela, já que uma falha devolveria
+     * o contato para a fila.
+     *
+     * @param id o ID do contato
+     */
+    public void cancelar(int id) {
+        synchronized (lockDescarga) {
+            synchronized (lockPendentes) {
+                if (pendentes.remove(id) != null) {
+                    LOGGER.info("Atualização pendente do contato ID " + id + " cancelada");
+                }
+            }
+        }
+    }
+
+    /**
+     * Grava imediatamente todas as atualizações pendentes em uma única transação.
+     * Nunca lança exceção: contatos que falharem voltam para a fila (sem sobrescrever
+     * edições mais recentes) ou, após {@link #MAX_TENTATIVAS} falhas, são descartados
+     * e informados ao ouvinte de falhas.
+     */
+    public void descarregar() {
+        descarregar(false);
+    }
+
+    /**
+     * Encerra a fila, gravando de forma síncrona as atualizações pendentes, com até
+     * {@link #MAX_TENTATIVAS} tentativas por contato. Se o prazo de encerramento se
+     * esgotar antes, o que ainda estiver pendente é descartado e registrado no log.
+     * Atualizações agendadas depois disso são gravadas imediatamente.
+     */
+    public void encerrar() {
+        synchronized (lockPendentes) {
+            encerrada = true;
+            executor.shutdown();
+        }
+        descarregarTudo();
+        LOGGER.info("Fila de atualizações encerrada");
+    }
+
+    /**
+     * @return true se há atualizações aguardando gravação
+     */
+    boolean temPendentes() {
+        synchronized (lockPendentes) {
+            return !pendentes.isEmpty();
+        }
+    }
+
+    /**
+     * @param agendada true quando chamada pelo executor; a descarga é ignorada se tiver
+     *                 sido substituída por outra posterior (espera após uma falha)
+     */
+    private void descarregar(boolean agendada) {
+        synchronized (lockDescarga) {
+            List<Pendente> lote;
+            synchronized (lockPendentes) {
+                if (agendada && (!descargaAgendada || System.nanoTime() - descargaEmNanos < 0)) {
+                    return;
+                }
+                descargaAgendada = false;
+                if (pendentes.isEmpty()) {
+                    return;
+                }
+                lote = new ArrayList<>(pendentes.values());
+                pendentes.clear();
+            }
+
+            long inicio = System.nanoTime();
+            List<Contato> contatos = new ArrayList<>(lote.size());
+            for (Pendente pendente : lote) {
+                contatos.add(pendente.contato());
+            }
+            try {
+                gravador.gravar(contatos);
+                synchronized (lockPendentes) {
+                    proximaTentativaNanos = System.nanoTime();
+                }
+            } catch (RuntimeException e) {
+                tratarFalhaDoLote(lote, e);
+            }
+            LOGGER.fine(() -> "Lote de " + lote.size() + " atualizações processado em "
+                    + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio) + " ms");
+        }
+    }
+
+    /**
+     * Descarrega até a fila ficar vazia ou o prazo de encerramento se esgotar. Cada
+     * rodada com falha soma uma tentativa a pelo menos um contato, até que seja descartado;
+     * o prazo limita o total quando cada gravação demora (ex.: banco fora do ar).
+     */
+    private void descarregarTudo() {
+        long limite = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(prazoEncerramentoMs);
+        while (temPendentes()) {
+            if (System.nanoTime() - limite >= 0) {
+                descartarPendentes();
+                return;
+            }
+            descarregar();
+        }
+    }
+
+    private void descartarPendentes() {
+        List<Pendente> descartados;
+        synchronized (lockPendentes) {
+            descartados = new ArrayList<>(pendentes.values());
+            pendentes.clear();
+        }
+        for (Pendente pendente : descartados) {
+            Contato contato = pendente.contato();
+            LOGGER.severe("Prazo de encerramento esgotado: atualização do contato ID " + contato.getId()
+                    + " (" + contato.getNome() + ") descartada após " + pendente.falhas() + " tentativas");
+        }
+    }
+
+    private void tratarFalhaDoLote(List<Pendente> lote, RuntimeException erroLote) {
+        List<Pendente> devolvidos = new ArrayList<>(lote.size());
+        if (isErroDeConexao(erroLote)) {
+            // Gravar cada contato separadamente só repetiria o mesmo erro
+            LOGGER.log(Level.WARNING, "Sem conexão com o banco ao gravar lote de " + lote.size()
+                    + " atualizações", erroLote);
+            for (Pendente pendente : lote) {
+                contarFalha(pendente, erroLote, devolvidos);
+            }
+            devolver(devolvidos);
+            return;
+        }
+
+        LOGGER.log(Level.WARNING, "Falha ao gravar lote de " + lote.size()
+                + " atualizações; gravando cada contato separadamente", erroLote);
+        for (int i = 0; i < lote.size(); i++) {
+            Pendente pendente = lote.get(i);
+            try {
+                gravador.gravar(List.of(pendente.contato()));
+            } catch (RuntimeException e) {
+                boolean conexao = isErroDeConexao(e);
+                if (i > 0 && !conexao) {
+                    contarFalha(pendente, e, devolvidos);
+                    continue;
+                }
+                // A falha provavelmente não é deste contato: interrompe em vez de pagar uma
+                // tentativa por contato. Os restantes só contam tentativa se o banco estiver
+                // inacessível, e o contato que falhou vai para o fim da fila, para não ser
+                // novamente o primeiro na próxima rodada.
+                List<Pendente> restantes = lote.subList(i + 1, lote.size());
+                LOGGER.warning("Gravação individual interrompida; " + restantes.size()
+                        + " atualizações voltam para a fila");
+                for (Pendente restante : restantes) {
+                    if (conexao) {
+                        contarFalha(restante, e, devolvidos);
+                    } else {
+                        devolvidos.add(restante);
+                    }
+                }
+                contarFalha(pendente, e, devolvidos);
+                break;
+            }
+        }
+        devolver(devolvidos);
+    }
+
+    /**
+     * Soma uma falha ao contato: se ainda houver tentativas ele é adicionado a
+     * {@code devolvidos}, senão é descartado e o ouvinte de falhas é avisado.
+     */
+    private void contarFalha(Pendente pendente, RuntimeException erro, List<Pendente> devolvidos) {
+        Contato contato = pendente.contato();
+        int falhas = pendente.falhas() + 1;
+        if (falhas >= MAX_TENTATIVAS) {
+            LOGGER.log(Level.SEVERE, "Atualização do contato ID " + contato.getId()
+                    + " descartada após " + falhas + " tentativas", erro);
+            avisarFalha(contato, erro);
+            return;
+        }
+        // Erros de conexão já foram registrados com o lote
+        LOGGER.log(Level.WARNING, "Falha ao gravar contato ID " + contato.getId()
+                + " (tentativa " + falhas + " de " + MAX_TENTATIVAS + ")", isErroDeConexao(erro) ? null : erro);
+        devolvidos.add(new Pendente(contato, falhas));
+    }
+
+    /**
+     * Devolve contatos à fila, sem sobrescrever edições mais recentes, e agenda a nova
+     * tentativa com espera proporcional ao maior número de falhas.
+     */
+    private void devolver(List<Pendente> devolvidos) {
+        if (devolvidos.isEmpty()) {
+            return;
+        }
+        int maiorFalhas = 0;
+        synchronized (lockPendentes) {
+            for (Pendente pendente : devolvidos) {
+                pendentes.putIfAbsent(pendente.contato().getId(), pendente);
+                maiorFalhas = Math.max(maiorFalhas, pendente.falhas());
+            }
+            long atrasoMs = janelaMs << maiorFalhas;
+            proximaTentativaNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(atrasoMs);
+            agendarDescarga(atrasoMs);
+        }
+    }
+
+    /**
+     * @return true se o erro indica que o banco está inacessível (SQLState da classe 08),
+     *         e não um problema com os dados gravados
+     */
+    private static boolean isErroDeConexao(Throwable erro) {
+        for (Throwable causa = erro; causa != null; causa = causa.getCause()) {
+            if (causa instanceof SQLTransientConnectionException
+                    || causa instanceof SQLNonTransientConnectionException) {
+                return true;
+            }
+            if (causa instanceof SQLException sql && sql.getSQLState() != null
+                    && sql.getSQLState().startsWith("08")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void avisarFalha(Contato contato, RuntimeException erro) {
+        try {
+            ouvinteFalhas.accept(contato, erro);
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Erro no ouvinte de falhas da fila de atualizações", e);
+        }
+    }
+
+    /**
+     * Agenda uma descarga para daqui a {@code atrasoMs}, mas nunca antes da próxima
+     * tentativa após uma falha. Uma descarga já agendada é mantida se não antecipar
+     * essa tentativa. Deve ser chamado com {@code lockPendentes}.
+     */
+    private void agendarDescarga(long atrasoMs) {
+        if (encerrada) {
+            return;
+        }
+        if (descargaAgendada && descargaEmNanos - proximaTentativaNanos >= 0) {
+            return;
+        }
+        long agora = System.nanoTime();
+        long alvo = agora + TimeUnit.MILLISECONDS.toNanos(atrasoMs);
+        if (proximaTentativaNanos - alvo > 0) {
+            alvo = proximaTentativaNanos;
+        }
+        // A descarga substituída, se houver, ainda executa, mas é ignorada em descarregar(true)
+        descargaAgendada = true;
+        descargaEmNanos = alvo;
+        executor.schedule(this::descarregarAgendado, alvo - agora, TimeUnit.NANOSECONDS);
+    }
+
+    private void descarregarAgendado() {
+        try {
+            descarregar(true);
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.SEVERE, "Erro inesperado ao gravar atualizações pendentes", e);
+        }
+    }
+}
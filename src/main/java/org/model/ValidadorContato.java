@@ -0,0 +1,177 @@
+package org.model;
+
+/**
+ * Validação e normalização dos dados de um contato.
+ * Usada pela interface gráfica e por qualquer outro ponto de entrada
+ * (importação em lote, API), garantindo as mesmas regras em todos eles.
+ * <p>
+ * As verificações percorrem os caracteres diretamente em vez de usar
+ * {@link String#matches(String)}, que compila uma nova expressão regular
+ * a cada chamada. A validação dos campos não aloca objetos nem lança
+ * exceções: o resultado é sempre um {@link ErroValidacao}.
+ *
+ * @author Adrian
+ * @version 1.0
+ */
+public final class ValidadorContato {
+
+    /** Tamanho mínimo do telefone, após remover espaços das extremidades. */
+    private static final int TAMANHO_MINIMO_TELEFONE = 8;
+
+    private ValidadorContato() {
+    }
+
+    /**
+     * Valida todos os campos de um contato, na mesma ordem exibida na interface.
+     * Os valores são considerados sem os espaços das extremidades.
+     *
+     * @param nome o nome do contato
+     * @param telefone o telefone do contato
+     * @param email o email do contato
+     * @return o primeiro erro encontrado, ou {@link ErroValidacao#NENHUM}
+     */
+    public static ErroValidacao validar(String nome, String telefone, String email) {
+        if (isVazio(nome)) {
+            return ErroValidacao.NOME_VAZIO;
+        }
+        if (isVazio(telefone)) {
+            return ErroValidacao.TELEFONE_VAZIO;
+        }
+        if (isVazio(email)) {
+            return ErroValidacao.EMAIL_VAZIO;
+        }
+        if (!validarEmail(email)) {
+            return ErroValidacao.EMAIL_INVALIDO;
+        }
+        if (!validarTelefone(telefone)) {
+            return ErroValidacao.TELEFONE_INVALIDO;
+        }
+        return ErroValidacao.NENHUM;
+    }
+
+    /**
+     * Valida um contato já montado.
+     *
+     * @param contato o contato a validar
+     * @return o primeiro erro encontrado, ou {@link ErroValidacao#NENHUM}
+     * @throws IllegalArgumentException se o contato for nulo
+     */
+    public static ErroValidacao validar(Contato contato) {
+        if (contato == null) {
+            throw new IllegalArgumentException("Contato não pode ser nulo");
+        }
+        return validar(contato.getNome(), contato.getTelefone(), contato.getEmail());
+    }
+
+    /**
+     * Valida o formato do email. Equivale a {@code ^[A-Za-z0-9+_.-]+@(.+)$}
+     * aplicado ao valor sem espaços nas extremidades.
+     *
+     * @param email o email a validar
+     * @return true se o email é válido, false caso contrário
+     */
+    public static boolean validarEmail(String email) {
+        if (email == null) {
+            return false;
+        }
+        int fim = fim(email);
+        int i = inicio(email, fim);
+        int inicioUsuario = i;
+
+        while (i < fim && isCaractereUsuario(email.charAt(i))) {
+            i++;
+        }
+        if (i == inicioUsuario || i == fim || email.charAt(i) != '@') {
+            return false;
+        }
+        i++;
+        if (i == fim) {
+            return false;
+        }
+        for (; i < fim; i++) {
+            if (isTerminadorLinha(email.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Valida o formato do telefone. Equivale a {@code ^[()\d\s\-+]*$} com
+     * pelo menos oito caracteres, aplicado ao valor sem espaços nas extremidades.
+     *
+     * @param telefone o telefone a validar
+     * @return true se o telefone é válido, false caso contrário
+     */
+    public static boolean validarTelefone(String telefone) {
+        if (telefone == null) {
+            return false;
+        }
+        int fim = fim(telefone);
+        int inicio = inicio(telefone, fim);
+        if (fim - inicio < TAMANHO_MINIMO_TELEFONE) {
+            return false;
+        }
+        for (int i = inicio; i < fim; i++) {
+            if (!isCaractereTelefone(telefone.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Normaliza um valor de entrada removendo os espaços das extremidades.
+     * Só aloca uma nova string quando há espaços a remover.
+     *
+     * @param valor o valor informado
+     * @return o valor sem espaços nas extremidades, ou string vazia se for nulo
+     */
+    public static String normalizar(String valor) {
+        return valor == null ? "" : valor.trim();
+    }
+
+    private static boolean isVazio(String valor) {
+        if (valor == null) {
+            return true;
+        }
+        int fim = fim(valor);
+        return inicio(valor, fim) == fim;
+    }
+
+    /** Primeiro índice após os espaços iniciais, com a mesma regra de {@link String#trim()}. */
+    private static int inicio(String valor, int fim) {
+        int i = 0;
+        while (i < fim && valor.charAt(i) <= ' ') {
+            i++;
+        }
+        return i;
+    }
+
+    /** Índice logo após o último caractere que não é espaço. */
+    private static int fim(String valor) {
+        int fim = valor.length();
+        while (fim > 0 && valor.charAt(fim - 1) <= ' ') {
+            fim--;
+        }
+        return fim;
+    }
+
+    private static boolean isCaractereUsuario(char c) {
+        return (c >= 'A' && c <= 'Z')
+                || (c >= 'a' && c <= 'z')
+                || (c >= '0' && c <= '9')
+                || c == '+' || c == '_' || c == '.' || c == '-';
+    }
+
+    private static boolean isCaractereTelefone(char c) {
+        return (c >= '0' && c <= '9')
+                || c == '(' || c == ')' || c == '-' || c == '+'
+                || c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /** Caracteres que o {@code .} de uma expressão regular não aceita. */
+    private static boolean isTerminadorLinha(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
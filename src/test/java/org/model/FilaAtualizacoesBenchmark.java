@@ -0,0 +1,153 @@
+package org.model;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Mede a {@link FilaAtualizacoes} sob rajadas de edições de poucos contatos, comparando
+ * com uma transação por edição, como nas chamadas a {@link ContatoDAO#atualizarContato(Contato)}
+ * feitas antes da fila.
+ * <p>
+ * O banco é simulado por um {@link FilaAtualizacoes.Gravador} que grava um lote por vez e
+ * leva um tempo fixo por commit. Para cada latência de commit são informadas as transações
+ * por segundo e os percentis 50 e 99 do tempo entre a edição e o commit que a gravou (uma
+ * edição substituída por outra mais recente do mesmo contato conta como gravada junto com
+ * ela). O tempo é contado a partir do instante previsto da rajada, então inclui a espera das
+ * edições bloqueadas por gravações síncronas anteriores.
+ * <p>
+ * Execução: {@code mvn -Pjmh verify}, após os benchmarks JMH, ou diretamente pela classe,
+ * com as latências de commit em ms como argumentos (padrão: 1 5 20).
+ */
+public class FilaAtualizacoesBenchmark {
+
+    private static final int CONTATOS = 4;
+    private static final int EDICOES_POR_RAJADA = 10;
+    private static final int RAJADAS = 60;
+    private static final long INTERVALO_RAJADAS_MS = 50;
+    /** Mesma janela usada pela aplicação. */
+    private static final long JANELA_MS = 200;
+    private static final String PREFIXO_NOME = "Edição ";
+
+    /** Banco simulado que registra em que instante cada edição foi gravada. */
+    private static final class BancoSimulado implements FilaAtualizacoes.Gravador {
+        private final long latenciaNanos;
+        private final Object lockCommit = new Object();
+        /** Por ID, as edições ainda não gravadas: {sequência, instante da edição}. */
+        private final Map<Integer, ArrayDeque<long[]>> aguardando = new HashMap<>();
+        private final long[] latencias;
+        private int gravadas;
+        private int transacoes;
+        private long ultimoCommit;
+
+        BancoSimulado(long latenciaMs, int edicoes) {
+            this.latenciaNanos = TimeUnit.MILLISECONDS.toNanos(latenciaMs);
+            this.latencias = new long[edicoes];
+        }
+
+        synchronized void editado(int id, long sequencia, long instante) {
+            aguardando.computeIfAbsent(id, chave -> new ArrayDeque<>()).add(new long[]{sequencia, instante});
+        }
+
+        @Override
+        public void gravar(List<Contato> contatos) {
+            synchronized (lockCommit) {
+                esperarAte(System.nanoTime() + latenciaNanos);
+                commitado(contatos, System.nanoTime());
+            }
+        }
+
+        private synchronized void commitado(List<Contato> contatos, long agora) {
+            transacoes++;
+            ultimoCommit = agora;
+            for (Contato contato : contatos) {
+                long sequencia = Long.parseLong(contato.getNome().substring(PREFIXO_NOME.length()));
+                ArrayDeque<long[]> edicoes = aguardando.get(contato.getId());
+                while (!edicoes.isEmpty() && edicoes.peek()[0] <= sequencia) {
+                    latencias[gravadas++] = agora - edicoes.poll()[1];
+                }
+            }
+            notifyAll();
+        }
+
+        synchronized void aguardarGravacoes() throws InterruptedException {
+            while (gravadas < latencias.length) {
+                wait();
+            }
+        }
+    }
+
+    private record Resultado(int transacoes, long duracaoNanos, long[] latencias) {
+
+        double transacoesPorSegundo() {
+            return transacoes / (duracaoNanos / 1e9);
+        }
+
+        double percentilMs(double percentil) {
+            long[] ordenadas = latencias.clone();
+            Arrays.sort(ordenadas);
+            int indice = Math.max(0, (int) Math.ceil(percentil * ordenadas.length) - 1);
+            return ordenadas[indice] / 1e6;
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        long[] latenciasMs = args.length == 0 ? new long[]{1, 5, 20} : Arrays.stream(args).mapToLong(Long::parseLong).toArray();
+        int edicoes = RAJADAS * EDICOES_POR_RAJADA;
+        System.out.printf("%d edições de %d contatos, em rajadas de %d a cada %d ms; janela da fila: %d ms%n",
+                edicoes, CONTATOS, EDICOES_POR_RAJADA, INTERVALO_RAJADAS_MS, JANELA_MS);
+        for (long latenciaMs : latenciasMs) {
+            System.out.printf("%nLatência de commit: %d ms%n", latenciaMs);
+            imprimir("fila agrupada", executar(latenciaMs, true));
+            imprimir("uma por edição", executar(latenciaMs, false));
+        }
+    }
+
+    private static Resultado executar(long latenciaMs, boolean comFila) throws InterruptedException {
+        BancoSimulado banco = new BancoSimulado(latenciaMs, RAJADAS * EDICOES_POR_RAJADA);
+        FilaAtualizacoes fila = comFila ? new FilaAtualizacoes(banco, JANELA_MS) : null;
+        long intervaloNanos = TimeUnit.MILLISECONDS.toNanos(INTERVALO_RAJADAS_MS);
+        long sequencia = 0;
+
+        long inicio = System.nanoTime();
+        for (int rajada = 0; rajada < RAJADAS; rajada++) {
+            long previsto = inicio + rajada * intervaloNanos;
+            esperarAte(previsto);
+            for (int i = 0; i < EDICOES_POR_RAJADA; i++) {
+                int id = 1 + i % CONTATOS;
+                sequencia++;
+                Contato contato = new Contato(id, PREFIXO_NOME + sequencia, "contato" + id + "@email.com", "(11) 99999-9999");
+                banco.editado(id, sequencia, previsto);
+                if (fila != null) {
+                    fila.agendar(contato);
+                } else {
+                    banco.gravar(List.of(contato));
+                }
+            }
+        }
+        banco.aguardarGravacoes();
+        if (fila != null) {
+            fila.encerrar();
+        }
+        synchronized (banco) {
+            return new Resultado(banco.transacoes, banco.ultimoCommit - inicio, banco.latencias);
+        }
+    }
+
+    private static void imprimir(String nome, Resultado resultado) {
+        System.out.printf("  %-15s %5d transações  %7.1f transações/s  p50 %7.1f ms  p99 %7.1f ms%n",
+                nome, resultado.transacoes(), resultado.transacoesPorSegundo(),
+                resultado.percentilMs(0.50), resultado.percentilMs(0.99));
+    }
+
+    private static void esperarAte(long instante) {
+        long restante;
+        while ((restante = instante - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(restante);
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package org.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FilaAtualizacoesTest {
+
+    /** Janela longa o bastante para que só descargas explícitas aconteçam durante o teste. */
+    private static final long JANELA_LONGA_MS = TimeUnit.HOURS.toMillis(1);
+
+    /** Gravador falso que registra os lotes e o último nome gravado por ID. */
+    private static class GravadorFalso implements FilaAtualizacoes.Gravador {
+        final List<List<Contato>> lotes = Collections.synchronizedList(new ArrayList<>());
+        final Map<Integer, String> banco = new ConcurrentHashMap<>();
+        volatile int idComFalha = -1;
+
+        @Override
+        public void gravar(List<Contato> contatos) {
+            for (Contato contato : contatos) {
+                if (contato.getId() == idComFalha) {
+                    throw new RuntimeException("Falha simulada para o ID " + idComFalha);
+                }
+            }
+            lotes.add(List.copyOf(contatos));
+            for (Contato contato : contatos) {
+                banco.put(contato.getId(), contato.getNome());
+            }
+        }
+    }
+
+    private static Contato contato(int id, String nome) {
+        return new Contato(id, nome, "contato" + id + "@email.com", "(11) 99999-9999");
+    }
+
+    @Test
+    void agrupaEdicoesMantendoUltimaPorId() {
+        GravadorFalso gravador = new GravadorFalso();
+        FilaAtualizacoes fila = new FilaAtualizacoes(gravador, JANELA_LONGA_MS);
+
+        for (int i = 0; i < 300; i++) {
+            fila.agendar(contato(1 + i % 3, "Nome " + i));
+        }
+        fila.descarregar();
+
+        assertEquals(1, gravador.lotes.size());
+        assertEquals(3, gravador.lotes.get(0).size());
+        assertEquals(Map.of(1, "Nome 297", 2, "Nome 298", 3, "Nome 299"), gravador.banco);
+        assertFalse(fila.temPendentes());
+    }
+
+    @Test
+    void guardaCopiaDoContatoAgendado() {
+        GravadorFalso gravador = new GravadorFalso();
+        FilaAtualizacoes fila = new FilaAtualizacoes(gravador, JANELA_LONGA_MS);
+
+        Contato contato = contato(1, "Original");
+        fila.agendar(contato);
+        contato.setNome("Alterado depois");
+        fila.descarregar();
+
+        assertEquals("Original", gravador.banco.get(1));
+    }
+
+    @Test
+    void contatoComFalhaNaoBloqueiaOsDemais() {
+        GravadorFalso gravador = new GravadorFalso();
+        gravador.idComFalha = 2;
+        FilaAtualizacoes fila = new FilaAtualizacoes(gravador, JANELA_LONGA_MS);
+        List<Contato> descartados = Collections.synchronizedList(new ArrayList<>());
+        fila.setOuvinteFalhas((contato, erro) -> descartados.add(contato));
+
+        fila.agendar(contato(1, "Um"));
+        fila.agendar(contato(2, "Dois"));
+        fila.agendar(contato(3, "Três"));
+        fila.descarregar();
+
+        assertEquals(Map.of(1, "Um", 3, "Três"), gravador.banco);
+        assertTrue(fila.temPendentes(), "o contato com falha deve voltar para a fila");
+        assertTrue(descartados.isEmpty());
+
+        for (int i = 1; i < FilaAtualizacoes.MAX_TENTATIVAS; i++) {
+            fila.descarregar();
+        }
+
+        assertFalse(fila.temPendentes(), "após o máximo de tentativas o contato é descartado");
+        assertEquals(1, descartados.size());
+        assertEquals(2, descartados.get(0).getId());
+    }
+
+    @Test
+    void falhaNaoSobrescreveEdicaoMaisRecente() {
+        FilaAtualizacoes[] fila = new FilaAtualizacoes[1];
+        GravadorFalso gravador = new GravadorFalso() {
+            private boolean editou;
+
+            @Override
+            public void gravar(List<Contato> contatos) {
+                if (!editou) {
+                    // Edição concorrente chegando enquanto a gravação antiga falha
+                    editou = true;
+                    fila[0].agendar(contato(1, "Nova"));
+                    throw new RuntimeException("Falha simulada");
+                }
+                super.gravar(contatos);
+            }
+        };
+        fila[0] = new FilaAtualizacoes(gravador, JANELA_LONGA_MS);
+
+        fila[0].agendar(contato(1, "Antiga"));
+        fila[0].descarregar();
+        // A tentativa individual da versão antiga teve sucesso; a nova segue pendente
+        assertEquals("Antiga", gravador.banco.get(1));
+        assertTrue(fila[0].temPendentes());
+
+        fila[0].descarregar();
+        assertEquals("Nova", gravador.banco.get(1));
+    }
+
+    @Test
+    void descargaAgendadaAposJanela() throws InterruptedException {
+        CountDownLatch gravou = new CountDownLatch(1);
+        GravadorFalso gravador = new GravadorFalso() {
+            @Override
+            public void gravar(List<Contato> contatos) {
+                super.gravar(contatos);
+                gravou.countDown();
+            }
+        };
+        FilaAtualizacoes fila = new FilaAtualizacoes(gravador, 10);
+
+        fila.agendar(contato(1, "Um"));
+
+        assertTrue(gravou.await(5, TimeUnit.SECONDS));
+        assertEquals("Um", gravador.banco.get(1));
+    }
+
+    @Test
+    void novaTentativaAgendadaAposFalha() throws InterruptedException {
+        CountDownLatch gravou = new CountDownLatch(1);
+        GravadorFalso gravador = new GravadorFalso() {
+            private int chamadas;
+
+            @Override
+            public void gravar(List<Contato> contatos) {
+                // Falham o lote e a tentativa individual da primeira descarga
+                if (++chamadas <= 2) {
+                    throw new RuntimeException("Falha simulada");
+                }
+                super.gravar(contatos);
+                gravou.countDown();
+            }
+        };
+        FilaAtualizacoes fila = new FilaAtualizacoes(gravador, 10);
+
+        fila.agendar(contato(1, "Um"));
+
+        assertTrue(gravou.await(5, TimeUnit.SECONDS), "a fila deve tentar de novo sozinha");
+        assertEquals("Um", gravador.banco.get(1));
+        assertFalse(fila.temPendentes());
+    }
+
+    @Test
+    void encerrarGravaPendentesEGravaNovasEdicoesNaHora() {
+        GravadorFalso gravador = new GravadorFalso();
+        FilaAtualizacoes fila = new FilaAtualizacoes(gravador, JANELA_LONGA_MS);
+
+        fila.agendar(contato(1, "Um"));
+        fila.agendar(contato(2, "Dois"));
+        fila.encerrar();
+
+        assertEquals(Map.of(1, "Um", 2, "Dois"), gravador.banco);
+        assertFalse(fila.temPendentes());
+
+        fila.agendar(contato(1, "Um editado"));
+        assertEquals("Um editado", gravador.banco.get(1));
+        assertFalse(fila.temPendentes());
+    }
+
+    @Test
+    void encerrarDescartaContatoQueSempreFalha() {
+        GravadorFalso gravador = new GravadorFalso();
+        gravador.idComFalha = 1;
+        FilaAtualizacoes fila = new FilaAtualizacoes(gravador, JANELA_LONGA_MS);
+        List<Contato> descartados = Collections.synchronizedList(new ArrayList<>());
+        fila.setOuvinteFalhas((contato, erro) -> descartados.add(contato));
+
+        fila.agendar(contato(1, "Um"));
+        fila.agendar(contato(2, "Dois"));
+        fila.encerrar();
+
+        assertEquals(Map.of(2, "Dois"), gravador.banco);
+        assertEquals(1, descartados.size());
+        assertFalse(fila.temPendentes());
+    }
+
+    @Test
+    void cancelarDescartaAtualizacaoPendente() {
+        GravadorFalso gravador = new GravadorFalso();
+        FilaAtualizacoes fila = new FilaAtualizacoes(gravador, JANELA_LONGA_MS);
+
+        fila.agendar(contato(1, "Um"));
+        fila.agendar(contato(2, "Dois"));
+        fila.cancelar(1);
+        fila.descarregar();
+
+        assertEquals(Map.of(2, "Dois"), gravador.banco);
+    }
+
+    @Test
+    void cancelarDuranteGravacaoComFalhaNaoDevolveContato() throws InterruptedException {
+        CountDownLatch gravando = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        GravadorFalso gravador = new GravadorFalso() {
+            @Override
+            public void gravar(List<Contato> contatos) {
+                gravando.countDown();
+                try {
+                    liberar.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new RuntimeException("Falha simulada");
+            }
+        };
+        FilaAtualizacoes fila = new FilaAtualizacoes(gravador, JANELA_LONGA_MS);
+        fila.agendar(contato(1, "Um"));
+
+        Thread descarga = new Thread(fila::descarregar);
+        descarga.start();
+        assertTrue(gravando.await(5, TimeUnit.SECONDS));
+        Thread cancelamento = new Thread(() -> fila.cancelar(1));
+        cancelamento.start();
+        liberar.countDown();
+        descarga.join(5000);
+        cancelamento.join(5000);
+
+        assertFalse(fila.temPendentes(), "a falha não pode devolver um contato cancelado");
+    }
+
+    @Test
+    void erroDeConexaoNaoTentaCadaContato() {
+        AtomicInteger chamadas = new AtomicInteger();
+        FilaAtualizacoes fila = new FilaAtualizacoes(contatos -> {
+            chamadas.incrementAndGet();
+            throw new RuntimeException(new SQLTransientConnectionException("Conexão recusada", "08001"));
+        }, JANELA_LONGA_MS);
+
+        for (int i = 1; i <= 5; i++) {
+            fila.agendar(contato(i, "Contato " + i));
+        }
+        fila.descarregar();
+
+        assertEquals(1, chamadas.get());
+        assertTrue(fila.temPendentes());
+    }
+
+    @Test
+    void falhaNaPrimeiraGravacaoIndividualInterrompeAsDemais() {
+        AtomicInteger chamadas = new AtomicInteger();
+        GravadorFalso gravador = new GravadorFalso() {
+            @Override
+            public void gravar(List<Contato> contatos) {
+                chamadas.incrementAndGet();
+                super.gravar(contatos);
+            }
+        };
+        gravador.idComFalha = 1;
+        FilaAtualizacoes fila = new FilaAtualizacoes(gravador, JANELA_LONGA_MS);
+
+        for (int i = 1; i <= 5; i++) {
+            fila.agendar(contato(i, "Contato " + i));
+        }
+        fila.descarregar();
+
+        // Lote e primeira tentativa individual, em vez de uma tentativa por contato
+        assertEquals(2, chamadas.get());
+        assertTrue(gravador.banco.isEmpty());
+
+        // O contato que falhou foi para o fim da fila e não bloqueia mais os demais
+        fila.descarregar();
+        assertEquals(Map.of(2, "Contato 2", 3, "Contato 3", 4, "Contato 4", 5, "Contato 5"), gravador.banco);
+    }
+
+    @Test
+    void edicaoDuranteGravacaoNaoAntecipaNovaTentativa() throws InterruptedException {
+        long janelaMs = 50;
+        long[] ultimaFalha = new long[1];
+        long[] novaTentativa = new long[1];
+        CountDownLatch gravou = new CountDownLatch(1);
+        FilaAtualizacoes[] fila = new FilaAtualizacoes[1];
+        GravadorFalso gravador = new GravadorFalso() {
+            private int chamadas;
+
+            @Override
+            public void gravar(List<Contato> contatos) {
+                chamadas++;
+                if (chamadas == 1) {
+                    // Edição chegando enquanto a gravação está em andamento
+                    fila[0].agendar(contato(2, "Dois"));
+                }
+                if (chamadas <= 2) {
+                    ultimaFalha[0] = System.nanoTime();
+                    throw new RuntimeException("Falha simulada");
+                }
+                novaTentativa[0] = System.nanoTime();
+                super.gravar(contatos);
+                gravou.countDown();
+            }
+        };
+        fila[0] = new FilaAtualizacoes(gravador, janelaMs);
+
+        fila[0].agendar(contato(1, "Um"));
+
+        assertTrue(gravou.await(5, TimeUnit.SECONDS));
+        // Uma falha: espera de janelaMs << 1 a partir da falha, não só a janela da nova edição
+        long esperaMs = TimeUnit.NANOSECONDS.toMillis(novaTentativa[0] - ultimaFalha[0]);
+        assertTrue(esperaMs >= janelaMs << 1, "nova tentativa após " + esperaMs + " ms");
+        assertEquals(Map.of(1, "Um", 2, "Dois"), gravador.banco);
+    }
+
+    @Test
+    void encerrarDescartaPendentesAoEsgotarPrazo() {
+        AtomicInteger chamadas = new AtomicInteger();
+        FilaAtualizacoes fila = new FilaAtualizacoes(contatos -> {
+            chamadas.incrementAndGet();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new RuntimeException("Falha simulada");
+        }, JANELA_LONGA_MS, 10);
+        List<Contato> descartados = Collections.synchronizedList(new ArrayList<>());
+        fila.setOuvinteFalhas((contato, erro) -> descartados.add(contato));
+
+        fila.agendar(contato(1, "Um"));
+        fila.encerrar();
+
+        // Uma rodada (lote e tentativa individual) cabe no prazo; as outras não são feitas
+        assertEquals(2, chamadas.get());
+        assertFalse(fila.temPendentes());
+        assertTrue(descartados.isEmpty());
+    }
+}
@@ -0,0 +1,75 @@
+package org.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+
+/**
+ * Mede quantos registros por segundo o {@link ValidadorContato} valida,
+ * comparando com as chamadas a {@link String#matches(String)} usadas antes.
+ * <p>
+ * Execução: {@code mvn -Pjmh verify}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidadorContatoBenchmark {
+
+    private static final int REGISTROS = 1024;
+
+    private final String[] nomes = new String[REGISTROS];
+    private final String[] telefones = new String[REGISTROS];
+    private final String[] emails = new String[REGISTROS];
+
+    @Setup
+    public void preparar() {
+        Random random = new Random(7);
+        for (int i = 0; i < REGISTROS; i++) {
+            nomes[i] = "Contato " + i;
+            telefones[i] = String.format("(%02d) 9%04d-%04d", random.nextInt(100), random.nextInt(10_000), random.nextInt(10_000));
+            emails[i] = "contato" + i + "@email.com";
+            // Cerca de 10% dos registros são inválidos
+            if (random.nextInt(10) == 0) {
+                emails[i] = "contato" + i + "#email.com";
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REGISTROS)
+    public int validador() {
+        int validos = 0;
+        for (int i = 0; i < REGISTROS; i++) {
+            if (ValidadorContato.validar(nomes[i], telefones[i], emails[i]).isValido()) {
+                validos++;
+            }
+        }
+        return validos;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REGISTROS)
+    public int regexPorChamada() {
+        int validos = 0;
+        for (int i = 0; i < REGISTROS; i++) {
+            String telefone = telefones[i].trim();
+            if (!nomes[i].trim().isEmpty()
+                    && emails[i].trim().matches("^[A-Za-z0-9+_.-]+@(.+)$")
+                    && telefone.matches("^[()\\d\\s\\-+]*$") && telefone.length() >= 8) {
+                validos++;
+            }
+        }
+        return validos;
+    }
+}
@@ -0,0 +1,97 @@
+package org.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Garante que o {@link ValidadorContato} aceita exatamente o que as expressões
+ * regulares usadas antes no controller aceitavam.
+ */
+class ValidadorContatoTest {
+
+    private static final Pattern EMAIL = Pattern.compile("^[A-Za-z0-9+_.-]+@(.+)$");
+    private static final Pattern TELEFONE = Pattern.compile("^[()\\d\\s\\-+]*$");
+
+    private static boolean emailPorRegex(String email) {
+        return EMAIL.matcher(email.trim()).matches();
+    }
+
+    private static boolean telefonePorRegex(String telefone) {
+        String valor = telefone.trim();
+        return TELEFONE.matcher(valor).matches() && valor.length() >= 8;
+    }
+
+    private static void assertEmailEquivalente(String email) {
+        assertEquals(emailPorRegex(email), ValidadorContato.validarEmail(email), "email: [" + email + "]");
+    }
+
+    private static void assertTelefoneEquivalente(String telefone) {
+        assertEquals(telefonePorRegex(telefone), ValidadorContato.validarTelefone(telefone),
+                "telefone: [" + telefone + "]");
+    }
+
+    @Test
+    void emailCasosDeBorda() {
+        String[] casos = {
+                "joao@email.com", "maria.silva@domain.co.uk", "  joao@email.com\t", "\njoao@email.com\n",
+                "a@", "@x", "@", "", "   ", "a@b", "a@@b", "a@b@c", "jo ao@email.com", "joão@email.com",
+                "a@dom ínio", "a@x\u2028y", "a@x\u2029y", "a@x\u0085y", "a@x\ny", "a@x\ry", "a@x\u2028",
+                "a+b_c.d-e@x", "a#b@x", "a@ x", "a@\t"
+        };
+        for (String caso : casos) {
+            assertEmailEquivalente(caso);
+        }
+        assertFalse(ValidadorContato.validarEmail(null));
+    }
+
+    @Test
+    void telefoneCasosDeBorda() {
+        String[] casos = {
+                "(11) 99999-9999", "11 98888-8888", "+55 11 97777-7777", "  (11) 99999-9999  ",
+                "1234567", "12345678", " 1234567 ", "11\t9999\t9999", "11\n9999\r9999", "11\u000B9999\f9999",
+                "(11) 9999-999a", "11.9999.9999", "11 9999 9999", "--------", "((((()))", "", "        "
+        };
+        for (String caso : casos) {
+            assertTelefoneEquivalente(caso);
+        }
+        assertFalse(ValidadorContato.validarTelefone(null));
+    }
+
+    @Test
+    void equivalenciaComEntradasAleatorias() {
+        String alfabeto = "aZ9+_.-@ ()\t\n\r x#-1234\u2028\u0085";
+        Random random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            StringBuilder sb = new StringBuilder();
+            int tamanho = random.nextInt(14);
+            for (int j = 0; j < tamanho; j++) {
+                sb.append(alfabeto.charAt(random.nextInt(alfabeto.length())));
+            }
+            String valor = sb.toString();
+            assertEmailEquivalente(valor);
+            assertTelefoneEquivalente(valor);
+        }
+    }
+
+    @Test
+    void validarRetornaPrimeiroErroNaOrdemDaInterface() {
+        assertEquals(ErroValidacao.NOME_VAZIO, ValidadorContato.validar(" ", "", ""));
+        assertEquals(ErroValidacao.TELEFONE_VAZIO, ValidadorContato.validar("João", null, ""));
+        assertEquals(ErroValidacao.EMAIL_VAZIO, ValidadorContato.validar("João", "(11) 99999-9999", "\t"));
+        assertEquals(ErroValidacao.EMAIL_INVALIDO, ValidadorContato.validar("João", "abc", "joao"));
+        assertEquals(ErroValidacao.TELEFONE_INVALIDO, ValidadorContato.validar("João", "abc", "joao@email.com"));
+        assertTrue(ValidadorContato.validar(" João ", " (11) 99999-9999 ", " joao@email.com ").isValido());
+    }
+
+    @Test
+    void normalizarRemoveEspacosDasExtremidades() {
+        assertEquals("João", ValidadorContato.normalizar("  João\t"));
+        assertEquals("", ValidadorContato.normalizar(null));
+    }
+}